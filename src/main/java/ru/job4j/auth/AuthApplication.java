@@ -1,11 +1,13 @@
 package ru.job4j.auth;
 
 import liquibase.integration.spring.SpringLiquibase;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.boot.web.servlet.support.SpringBootServletInitializer;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import javax.sql.DataSource;
@@ -34,4 +36,46 @@ public class AuthApplication extends SpringBootServletInitializer {
 	public BCryptPasswordEncoder passwordEncoder() {
 		return new BCryptPasswordEncoder();
 	}
+
+	/**
+	 * Пул потоков для блокирующих обращений к базе данных в асинхронном режиме.
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor ioExecutor(@Value("${app.async.io.pool-size}") int poolSize,
+											 @Value("${app.async.io.task-ms}") long taskMs,
+											 @Value("${app.async.timeout-ms}") long timeoutMs) {
+		return executor("io-", poolSize, queueCapacity(poolSize, timeoutMs, taskMs));
+	}
+
+	/**
+	 * Пул потоков для вычислений (хеширование паролей BCrypt) в асинхронном режиме.
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor cpuExecutor(@Value("${app.async.cpu.task-ms}") long taskMs,
+											  @Value("${app.async.timeout-ms}") long timeoutMs) {
+		int poolSize = Runtime.getRuntime().availableProcessors();
+		return executor("cpu-", poolSize, queueCapacity(poolSize, timeoutMs, taskMs));
+	}
+
+	/**
+	 * Очередь вмещает столько задач, сколько пул успеет выполнить до таймаута: threads * timeout / task.
+	 * Задача, не попавшая в очередь, отклоняется сразу (503, можно повторить),
+	 * вместо того чтобы дождаться таймаута в очереди (504, результат неизвестен).
+	 * @param poolSize число потоков пула.
+	 * @param timeoutMs таймаут асинхронной операции.
+	 * @param taskMs среднее время выполнения одной задачи.
+	 * @return емкость очереди.
+	 */
+	static int queueCapacity(int poolSize, long timeoutMs, long taskMs) {
+		return (int) Math.max(1, poolSize * timeoutMs / Math.max(1, taskMs));
+	}
+
+	private static ThreadPoolTaskExecutor executor(String prefix, int poolSize, int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix(prefix);
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		return executor;
+	}
 }
@@ -0,0 +1,137 @@
+package ru.job4j.auth.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import ru.job4j.auth.model.Person;
+import ru.job4j.auth.model.PersonDTO;
+import ru.job4j.auth.service.PersonAsyncService;
+import ru.job4j.auth.validation.Operation;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.Valid;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Асинхронный режим {@link PersonController}. Обработчики возвращают {@link CompletableFuture},
+ * поток Tomcat освобождается сразу, а ответ отправляется после завершения операции в пулах
+ * {@link PersonAsyncService}. Позволяет сравнить пропускную способность с синхронным режимом
+ * на одинаковых запросах: /person/... и /person/async/...
+ * @author: Egor Bekhterev
+ * @date: 18.10.2026
+ * @project: job4j_auth
+ */
+@RestController
+@RequestMapping("/person/async")
+@AllArgsConstructor
+public class PersonAsyncController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PersonAsyncController.class.getSimpleName());
+
+    private final PersonAsyncService persons;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Обработчик {@link IllegalArgumentException}, формирует такой же ответ, как {@link PersonController}.
+     * Исключения, возникшие внутри {@link CompletableFuture}, также передаются этому обработчику.
+     * @param e перехваченное исключение.
+     * @param request HTTP-сервлет запроса.
+     * @param response HTTP-сервлет ответа.
+     * @throws IOException если происходит исключение ввода или вывода.
+     */
+    @ExceptionHandler(value = { IllegalArgumentException.class })
+    public void exceptionHandler(Exception e, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        PersonResponses.writeBadRequest(objectMapper, e, response);
+        LOGGER.error(e.getLocalizedMessage());
+    }
+
+    @GetMapping("/")
+    public CompletableFuture<List<Person>> findAll() {
+        return this.persons.findAll();
+    }
+
+    @GetMapping("/search")
+    public CompletableFuture<List<Person>> search(@RequestParam String login,
+                                                  @RequestParam(required = false) String afterLogin,
+                                                  @RequestParam(defaultValue = "0") int afterId,
+                                                  @RequestParam(defaultValue = "20") int limit) {
+        return this.persons.searchByLogin(login, afterLogin, afterId, limit);
+    }
+
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Person>> findById(@PathVariable int id) {
+        return this.persons.findById(id).thenApply(person -> PersonResponses.found(
+                person.orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND, "Person is not found. Please, check the identificator."
+                ))
+        ));
+    }
+
+    @PostMapping("/")
+    public CompletableFuture<ResponseEntity<Person>> create(
+            @Validated(Operation.OnCreate.class) @RequestBody Person person) {
+        PersonResponses.checkCredentials(person);
+        return this.persons.register(person)
+                .thenApply(saved -> new ResponseEntity<>(saved, HttpStatus.CREATED));
+    }
+
+    @PutMapping("/")
+    public CompletableFuture<ResponseEntity<Void>> update(
+            @Validated(Operation.OnUpdate.class) @RequestBody Person person) {
+        return this.persons.update(person)
+                .thenApply(rsl -> new ResponseEntity<>(rsl ? HttpStatus.OK : HttpStatus.NOT_FOUND));
+    }
+
+    @DeleteMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Void>> delete(@PathVariable int id) {
+        return this.persons.delete(id)
+                .thenApply(rsl -> new ResponseEntity<>(rsl ? HttpStatus.OK : HttpStatus.NOT_FOUND));
+    }
+
+    @PostMapping("/sign-up")
+    public CompletableFuture<ResponseEntity<Void>> signUp(
+            @Validated(Operation.OnCreate.class) @RequestBody Person person) {
+        PersonResponses.checkCredentials(person);
+        return this.persons.signUp(person)
+                .thenApply(saved -> new ResponseEntity<>(HttpStatus.OK));
+    }
+
+    @PatchMapping("/patchDTO/{id}")
+    public CompletableFuture<ResponseEntity<Person>> patchDTO(@Valid @RequestBody PersonDTO personDTO,
+                                                              @PathVariable int id) {
+        return this.persons.findById(id).thenCompose(found -> {
+            var person = found.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+            person.setPassword(personDTO.getPassword());
+            return this.persons.update(person)
+                    .thenApply(rsl -> new ResponseEntity<>(person, rsl ? HttpStatus.OK : HttpStatus.BAD_REQUEST));
+        });
+    }
+
+    @PatchMapping("/patch")
+    public CompletableFuture<ResponseEntity<Person>> patch(
+            @Validated(Operation.OnUpdate.class) @RequestBody Person person) {
+        return this.persons.findById(person.getId()).thenCompose(found -> {
+            var currentPerson = found.orElseThrow(() -> new ResponseStatusException(
+                    HttpStatus.NOT_FOUND, "Person is not found. Please, check the identificator."
+            ));
+            try {
+                PersonResponses.copyNonNullFields(person, currentPerson);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+            return this.persons.update(currentPerson)
+                    .thenApply(rsl -> new ResponseEntity<>(person, rsl ? HttpStatus.OK : HttpStatus.BAD_REQUEST));
+        });
+    }
+}
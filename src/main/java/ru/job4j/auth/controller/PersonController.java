@@ -5,7 +5,6 @@ import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.validation.annotation.Validated;
@@ -22,10 +21,8 @@ import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -60,12 +57,7 @@ public class PersonController {
     @ExceptionHandler(value = { IllegalArgumentException.class })
     public void exceptionHandler(Exception e, HttpServletRequest request, HttpServletResponse response)
             throws IOException {
-        response.setStatus(HttpStatus.BAD_REQUEST.value());
-        response.setContentType("application/json");
-        response.getWriter().write(objectMapper.writeValueAsString(new HashMap<>() { {
-            put("message", e.getMessage());
-            put("type", e.getClass());
-        }}));
+        PersonResponses.writeBadRequest(objectMapper, e, response);
         LOGGER.error(e.getLocalizedMessage());
     }
 
@@ -74,28 +66,36 @@ public class PersonController {
         return this.persons.findAll();
     }
 
+    /**
+     * Поиск пользователей по префиксу логина. Для получения следующей страницы в afterLogin и afterId
+     * передаются login и id последней записи текущей страницы.
+     * @param login префикс логина.
+     * @param afterLogin login последней записи предыдущей страницы.
+     * @param afterId id последней записи предыдущей страницы.
+     * @param limit размер страницы.
+     * @return список пользователей, упорядоченный по login и id.
+     */
+    @GetMapping("/search")
+    public List<Person> search(@RequestParam String login,
+                               @RequestParam(required = false) String afterLogin,
+                               @RequestParam(defaultValue = "0") int afterId,
+                               @RequestParam(defaultValue = "20") int limit) {
+        return this.persons.searchByLogin(login, afterLogin, afterId, limit);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Person> findById(@PathVariable int id) {
         var person = this.persons.findById(id).orElseThrow(() -> new ResponseStatusException(
                 HttpStatus.NOT_FOUND, "Person is not found. Please, check the identificator."
         ));
-
-        return ResponseEntity.status(HttpStatus.OK)
-                .header("Job4jCustomHeader", "egor")
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(person);
+        return PersonResponses.found(person);
     }
 
     @PostMapping("/")
     public ResponseEntity<Person> create(@Validated(Operation.OnCreate.class) @RequestBody Person person) {
-        if (person.getLogin() == null || person.getPassword() == null) {
-            throw new NullPointerException("Username and password mustn't be empty");
-        }
-        if (person.getPassword().length() < 6) {
-            throw new IllegalArgumentException("Invalid password. Password length must be more than 6 characters.");
-        }
+        PersonResponses.checkCredentials(person);
         return new ResponseEntity<>(
-                this.persons.save(person),
+                this.persons.register(person),
                 HttpStatus.CREATED
         );
     }
@@ -116,14 +116,9 @@ public class PersonController {
 
     @PostMapping("/sign-up")
     public void signUp(@Validated(Operation.OnCreate.class) @RequestBody Person person) {
-        if (person.getLogin() == null || person.getPassword() == null) {
-            throw new NullPointerException("Username and password mustn't be empty");
-        }
-        if (person.getPassword().length() < 6) {
-            throw new IllegalArgumentException("Invalid password. Password length must be more than 6 characters.");
-        }
+        PersonResponses.checkCredentials(person);
         person.setPassword(encoder.encode(person.getPassword()));
-        persons.save(person);
+        persons.register(person);
     }
 
     @GetMapping("/pomDownload")
@@ -162,32 +157,7 @@ public class PersonController {
                     "Person is not found. Please, check the identificator.");
         }
 
-        /* Через рефлексию получаем массив методов объекта Person. Далее собираем мапу из геттеров и сеттеров.*/
-        var methods = currentPerson.get().getClass().getDeclaredMethods();
-        var namePerMethod = new HashMap<String, Method>();
-        for (var method : methods) {
-            var name = method.getName();
-            if (name.startsWith("get") || name.startsWith("set")) {
-                namePerMethod.put(name, method);
-            }
-        }
-
-        for (var name : namePerMethod.keySet()) {
-            if (name.startsWith("get")) {
-                var getMethod = namePerMethod.get(name);
-                var setMethod = namePerMethod.get(name.replace("get", "set"));
-                if (setMethod == null) {
-                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                            "Impossible invoke set method from object : " + currentPerson
-                                    + ", Check set and get pairs.");
-                }
-                /* Получаем новые значения для полей объекта, если не null - обновляем поле currentPerson.*/
-                var newValue = getMethod.invoke(person);
-                if (newValue != null) {
-                    setMethod.invoke(currentPerson.get(), newValue);
-                }
-            }
-        }
+        PersonResponses.copyNonNullFields(person, currentPerson.get());
         var rsl = persons.update(currentPerson.get());
         return new ResponseEntity<>(person, rsl ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
     }
@@ -0,0 +1,103 @@
+package ru.job4j.auth.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+import ru.job4j.auth.model.Person;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+
+/**
+ * Общие проверки и формирование ответов для {@link PersonController} и {@link PersonAsyncController},
+ * чтобы синхронный и асинхронный режимы отвечали одинаково.
+ * @author: Egor Bekhterev
+ * @date: 18.10.2026
+ * @project: job4j_auth
+ */
+final class PersonResponses {
+
+    private PersonResponses() {
+    }
+
+    /**
+     * Проверяет логин и пароль нового пользователя.
+     * @param person новый пользователь.
+     * @throws NullPointerException если логин или пароль не заданы.
+     * @throws IllegalArgumentException если пароль короче 6 символов.
+     */
+    static void checkCredentials(Person person) {
+        if (person.getLogin() == null || person.getPassword() == null) {
+            throw new NullPointerException("Username and password mustn't be empty");
+        }
+        if (person.getPassword().length() < 6) {
+            throw new IllegalArgumentException("Invalid password. Password length must be more than 6 characters.");
+        }
+    }
+
+    static ResponseEntity<Person> found(Person person) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .header("Job4jCustomHeader", "egor")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(person);
+    }
+
+    /**
+     * Устанавливает 400 статус ответа, тип содержимого JSON и записывает в тело сообщение и тип исключения.
+     * @param objectMapper сериализатор JSON.
+     * @param e перехваченное исключение.
+     * @param response HTTP-сервлет ответа.
+     * @throws IOException если происходит исключение ввода или вывода.
+     */
+    static void writeBadRequest(ObjectMapper objectMapper, Exception e, HttpServletResponse response)
+            throws IOException {
+        response.setStatus(HttpStatus.BAD_REQUEST.value());
+        response.setContentType("application/json");
+        response.getWriter().write(objectMapper.writeValueAsString(new HashMap<>() { {
+            put("message", e.getMessage());
+            put("type", e.getClass());
+        }}));
+    }
+
+    /**
+     * Копирует ненулевые поля одного объекта {@link Person} в другой. Использует рефлексию.
+     * @param source объект с новыми значениями полей.
+     * @param target обновляемый объект.
+     * @throws InvocationTargetException если вызов метода завершился исключением.
+     * @throws IllegalAccessException если метод не может быть вызван.
+     */
+    static void copyNonNullFields(Person source, Person target)
+            throws InvocationTargetException, IllegalAccessException {
+        /* Через рефлексию получаем массив методов объекта Person. Далее собираем мапу из геттеров и сеттеров.*/
+        var methods = target.getClass().getDeclaredMethods();
+        var namePerMethod = new HashMap<String, Method>();
+        for (var method : methods) {
+            var name = method.getName();
+            if (name.startsWith("get") || name.startsWith("set")) {
+                namePerMethod.put(name, method);
+            }
+        }
+
+        for (var name : namePerMethod.keySet()) {
+            if (name.startsWith("get")) {
+                var getMethod = namePerMethod.get(name);
+                var setMethod = namePerMethod.get(name.replace("get", "set"));
+                if (setMethod == null) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "Impossible invoke set method from object : " + target
+                                    + ", Check set and get pairs.");
+                }
+                /* Получаем новые значения для полей объекта, если не null - обновляем поле target.*/
+                var newValue = getMethod.invoke(source);
+                if (newValue != null) {
+                    setMethod.invoke(target, newValue);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package ru.job4j.auth.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Конфигурация двух независимых пулов соединений (bulkhead): для аутентификации и для CRUD-операций.
+ * Адрес и учетные данные базы берутся из spring.datasource.*, настройки пулов - из app.datasource.auth.*
+ * и app.datasource.crud.*. Метрики пулов публикуются под именами пулов auth-pool и crud-pool.
+ * @author: Egor Bekhterev
+ * @date: 18.10.2026
+ * @project: job4j_auth
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.auth")
+    public HikariDataSource authDataSource(DataSourceProperties properties) {
+        var ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName("auth-pool");
+        return ds;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.crud")
+    public HikariDataSource crudDataSource(DataSourceProperties properties) {
+        var ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName("crud-pool");
+        return ds;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("authDataSource") DataSource auth,
+                                 @Qualifier("crudDataSource") DataSource crud) {
+        var routing = new RoutingDataSource();
+        routing.setTargetDataSources(Map.of(Pool.AUTH, auth, Pool.CRUD, crud));
+        routing.setDefaultTargetDataSource(crud);
+        return routing;
+    }
+}
@@ -0,0 +1,21 @@
+package ru.job4j.auth.datasource;
+
+/**
+ * Пулы соединений с базой данных. Каждый пул имеет собственный размер,
+ * поэтому тяжелые CRUD-запросы не могут занять соединения, необходимые для аутентификации.
+ * @author: Egor Bekhterev
+ * @date: 18.10.2026
+ * @project: job4j_auth
+ */
+public enum Pool {
+
+    /**
+     * Поиск пользователя при аутентификации.
+     */
+    AUTH,
+
+    /**
+     * Операции с пользователями через REST API. Используется по умолчанию.
+     */
+    CRUD
+}
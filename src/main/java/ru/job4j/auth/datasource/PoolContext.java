@@ -0,0 +1,44 @@
+package ru.job4j.auth.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Хранит пул соединений, выбранный для текущего потока. Пул должен быть выбран до начала транзакции,
+ * так как соединение берется из пула при ее открытии.
+ * @author: Egor Bekhterev
+ * @date: 18.10.2026
+ * @project: job4j_auth
+ */
+public final class PoolContext {
+
+    private static final ThreadLocal<Pool> CURRENT = new ThreadLocal<>();
+
+    private PoolContext() {
+    }
+
+    /**
+     * Выполняет действие, направляя обращения к базе данных в указанный пул.
+     * @param pool пул соединений.
+     * @param action действие.
+     * @param <T> тип результата.
+     * @return результат действия.
+     */
+    public static <T> T call(Pool pool, Supplier<T> action) {
+        var previous = CURRENT.get();
+        CURRENT.set(pool);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static Pool current() {
+        var pool = CURRENT.get();
+        return pool == null ? Pool.CRUD : pool;
+    }
+}
@@ -0,0 +1,17 @@
+package ru.job4j.auth.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Источник данных, выбирающий пул соединений по {@link PoolContext}.
+ * @author: Egor Bekhterev
+ * @date: 18.10.2026
+ * @project: job4j_auth
+ */
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return PoolContext.current();
+    }
+}
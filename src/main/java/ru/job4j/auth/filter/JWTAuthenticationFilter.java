@@ -10,6 +10,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import ru.job4j.auth.model.Person;
+import ru.job4j.auth.security.Authorities;
 import org.springframework.security.core.userdetails.User;
 
 import javax.servlet.FilterChain;
@@ -44,6 +45,8 @@ public class JWTAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
     public static final String SIGN_UP_URL = "/person/sign-up";
 
+    public static final String ASYNC_SIGN_UP_URL = "/person/async/sign-up";
+
     private AuthenticationManager auth;
 
     /**
@@ -73,8 +76,8 @@ public class JWTAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     }
 
     /**
-     * После успешной аутентификации формирует JWT-токен из имени пользователя, устанавливает время его действия,
-     * подписывает секретным ключом. Этот токен добавляется в заголовок ответа вместе с именем заголовка и префиксом.
+     * После успешной аутентификации формирует JWT-токен из имени пользователя и битовой маски его прав,
+     * устанавливает время его действия, подписывает секретным ключом. Этот токен добавляется в заголовок ответа вместе с именем заголовка и префиксом.
      * @param request объект HttpServletRequest, который содержит данные запроса.
      * @param response объект HttpServletResponse, который будет использоваться для ответа на запрос.
      * @param chain объект {@link FilterChain}.
@@ -87,6 +90,7 @@ public class JWTAuthenticationFilter extends UsernamePasswordAuthenticationFilte
                                             Authentication authResult) {
         String token = JWT.create()
                 .withSubject(((User) authResult.getPrincipal()).getUsername())
+                .withClaim(Authorities.CLAIM, Authorities.toBits(authResult.getAuthorities()))
                 .withExpiresAt(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
                 .sign(Algorithm.HMAC512(SECRET.getBytes()));
         response.addHeader(HEADER_STRING, TOKEN_PREFIX + token);
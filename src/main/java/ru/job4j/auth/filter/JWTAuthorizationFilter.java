@@ -2,17 +2,18 @@ package ru.job4j.auth.filter;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import ru.job4j.auth.security.Authorities;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.ArrayList;
 
 import static ru.job4j.auth.filter.JWTAuthenticationFilter.HEADER_STRING;
 import static ru.job4j.auth.filter.JWTAuthenticationFilter.SECRET;
@@ -32,22 +33,25 @@ public class JWTAuthorizationFilter extends BasicAuthenticationFilter {
 
     /**
      * Извлекает JWT-токен из заголовка, проверяет его подпись на наличие секретного ключа.
-     * Далее извлекает имя пользователя из токена.
+     * Далее извлекает имя пользователя и битовую маску его прав из токена.
+     * Права восстанавливаются из закэшированных экземпляров без обращения к базе данных.
      * @param request объект HttpServletRequest, который содержит данные запроса.
      * @return объект {@link UsernamePasswordAuthenticationToken},
-     * если имя пользователя не получено или токен не найден - возвращает null.
+     * если имя пользователя не получено, токен не найден или не содержит прав (выпущен до их появления) -
+     * возвращает null, и клиент получает 401, чтобы пройти аутентификацию заново.
      */
     private UsernamePasswordAuthenticationToken getAuthentication(HttpServletRequest request) {
         String token = request.getHeader(HEADER_STRING);
         if (token != null) {
             /* parse the token. */
-            String user = JWT.require(Algorithm.HMAC512(SECRET.getBytes()))
+            DecodedJWT jwt = JWT.require(Algorithm.HMAC512(SECRET.getBytes()))
                     .build()
-                    .verify(token.replace(TOKEN_PREFIX, ""))
-                    .getSubject();
+                    .verify(token.replace(TOKEN_PREFIX, ""));
+            String user = jwt.getSubject();
+            Long bits = jwt.getClaim(Authorities.CLAIM).asLong();
 
-            if (user != null) {
-                return new UsernamePasswordAuthenticationToken(user, null, new ArrayList<>());
+            if (user != null && bits != null) {
+                return new UsernamePasswordAuthenticationToken(user, null, Authorities.fromBits(bits));
             }
             return null;
         }
@@ -70,7 +74,7 @@ public class JWTAuthorizationFilter extends BasicAuthenticationFilter {
 
         if (header == null || !header.startsWith(TOKEN_PREFIX)) {
             chain.doFilter(request, response);
-            return ;
+            return;
         }
 
         UsernamePasswordAuthenticationToken authentication = getAuthentication(request);
@@ -15,6 +15,8 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
@@ -54,4 +56,32 @@ public class GlobalExceptionHandler {
                         .collect(Collectors.toList())
         );
     }
+
+    /**
+     * Пул потоков асинхронного режима переполнен - задача не была запущена, поэтому возвращает 503,
+     * и клиент может безопасно повторить запрос позже.
+     * @param e возникшее исключение.
+     * @return ответ со статусом 503 и сообщением об ошибке.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<?> handleOverload(RejectedExecutionException e) {
+        LOGGER.error("Async request rejected: {}", e.toString());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(
+                Map.of("message", "Service is overloaded, please retry later.")
+        );
+    }
+
+    /**
+     * Асинхронная операция не уложилась в отведенное время. Запущенная запись в базу данных могла завершиться
+     * после таймаута, поэтому возвращает 504 без предложения повторить запрос: результат операции неизвестен.
+     * @param e возникшее исключение.
+     * @return ответ со статусом 504 и сообщением об ошибке.
+     */
+    @ExceptionHandler(TimeoutException.class)
+    public ResponseEntity<?> handleTimeout(TimeoutException e) {
+        LOGGER.error("Async request timed out: {}", e.toString());
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(
+                Map.of("message", "Request timed out, the result of the operation is unknown.")
+        );
+    }
 }
@@ -0,0 +1,38 @@
+package ru.job4j.auth.model;
+
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * Права доступа к ресурсам приложения. Каждому праву закреплен свой бит, по которому набор прав
+ * упаковывается в JWT-токен. Биты не должны меняться после выпуска токенов.
+ * Константы перечисления являются неизменяемыми экземплярами {@link GrantedAuthority}.
+ * @author: Egor Bekhterev
+ * @date: 18.10.2026
+ * @project: job4j_auth
+ */
+public enum Permission implements GrantedAuthority {
+
+    PERSON_READ(0),
+
+    PERSON_WRITE(1),
+
+    PERSON_DELETE(2);
+
+    private final int bit;
+
+    Permission(int bit) {
+        if (bit < 0 || bit >= Long.SIZE) {
+            throw new IllegalArgumentException("Permission bit must be in [0, 63]: " + bit);
+        }
+        this.bit = bit;
+    }
+
+    public long mask() {
+        return 1L << bit;
+    }
+
+    @Override
+    public String getAuthority() {
+        return name();
+    }
+}
@@ -1,6 +1,8 @@
 package ru.job4j.auth.repository;
 
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import ru.job4j.auth.model.Person;
 
 import java.util.List;
@@ -16,4 +18,27 @@ public interface PersonRepository extends CrudRepository<Person, Integer> {
     List<Person> findAll();
 
     Optional<Person> findByLogin(String login);
+
+    /**
+     * Первая страница поиска по префиксу логина. Префикс задается диапазоном [from, to),
+     * чтобы индекс (login, id) использовался и в подготовленных запросах с обобщенным планом.
+     */
+    @Query(value = "select * from person where login >= :from and login < :to "
+            + "order by login, id limit :limit", nativeQuery = true)
+    List<Person> searchByLoginRange(@Param("from") String from,
+                                    @Param("to") String to,
+                                    @Param("limit") int limit);
+
+    /**
+     * Следующая страница поиска по префиксу логина: записи строго после пары (afterLogin, afterId).
+     * Сравнение кортежей позволяет начать сканирование индекса (login, id) сразу с нужной позиции.
+     */
+    @Query(value = "select * from person where login >= :from and login < :to "
+            + "and (login, id) > (:afterLogin, :afterId) "
+            + "order by login, id limit :limit", nativeQuery = true)
+    List<Person> searchByLoginRangeAfter(@Param("from") String from,
+                                         @Param("to") String to,
+                                         @Param("afterLogin") String afterLogin,
+                                         @Param("afterId") int afterId,
+                                         @Param("limit") int limit);
 }
@@ -0,0 +1,33 @@
+package ru.job4j.auth.repository;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import ru.job4j.auth.model.Role;
+
+import java.util.List;
+
+/**
+ * @author: Egor Bekhterev
+ * @date: 18.10.2026
+ * @project: job4j_auth
+ */
+public interface RoleRepository extends CrudRepository<Role, Integer> {
+
+    /**
+     * Права всех ролей пользователя одним запросом, без загрузки сущностей {@link Role}.
+     * @param login login пользователя.
+     * @return имена прав {@link ru.job4j.auth.model.Permission}.
+     */
+    @Query(value = "select distinct rp.permission from role_permission rp "
+            + "join person_role pr on pr.role_id = rp.role_id "
+            + "join person p on p.id = pr.person_id "
+            + "where p.login = :login", nativeQuery = true)
+    List<String> findPermissionsByLogin(@Param("login") String login);
+
+    @Modifying
+    @Query(value = "insert into person_role (person_id, role_id) "
+            + "select :personId, r.id from role r where r.name = :name", nativeQuery = true)
+    int assign(@Param("personId") int personId, @Param("name") String name);
+}
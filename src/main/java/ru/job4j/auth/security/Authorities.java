@@ -0,0 +1,116 @@
+package ru.job4j.auth.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import ru.job4j.auth.model.Permission;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Упаковывает набор прав {@link Permission} в битовую маску для JWT-токена и восстанавливает его обратно.
+ * Для каждой возможной маски заранее построен неизменяемый список прав, поэтому разбор токена
+ * не создает новых объектов {@link GrantedAuthority} и не обращается к базе данных.
+ * @author: Egor Bekhterev
+ * @date: 18.10.2026
+ * @project: job4j_auth
+ */
+public final class Authorities {
+
+    /**
+     * Имя claim JWT-токена, в котором хранится битовая маска прав.
+     */
+    public static final String CLAIM = "perms";
+
+    /**
+     * Кэш содержит 2^N списков, поэтому число прав ограничено.
+     */
+    static final int MAX_PERMISSIONS = 16;
+
+    private static final Permission[] PERMISSIONS = checked(Permission.values());
+
+    private static final long ALL = allMask();
+
+    private static final List<List<GrantedAuthority>> CACHE = buildCache();
+
+    private Authorities() {
+    }
+
+    /**
+     * Собирает битовую маску из набора прав. Права, не являющиеся {@link Permission}, игнорируются.
+     * @param authorities права пользователя.
+     * @return битовая маска прав.
+     */
+    public static long toBits(Collection<? extends GrantedAuthority> authorities) {
+        long bits = 0;
+        for (var authority : authorities) {
+            if (authority instanceof Permission permission) {
+                bits |= permission.mask();
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Возвращает закэшированный неизменяемый список прав для битовой маски.
+     * Неизвестные биты отбрасываются.
+     * @param bits битовая маска прав.
+     * @return неизменяемый список прав.
+     */
+    public static List<GrantedAuthority> fromBits(long bits) {
+        return CACHE.get((int) compact(bits & ALL));
+    }
+
+    /**
+     * Проверяет при загрузке класса, что прав не больше {@link #MAX_PERMISSIONS} и их биты не совпадают.
+     */
+    static Permission[] checked(Permission[] permissions) {
+        if (permissions.length > MAX_PERMISSIONS) {
+            throw new IllegalStateException("Too many permissions for the bitset cache: " + permissions.length
+                    + ", max " + MAX_PERMISSIONS);
+        }
+        long all = 0;
+        for (var permission : permissions) {
+            if ((all & permission.mask()) != 0) {
+                throw new IllegalStateException("Duplicate permission bit: " + permission);
+            }
+            all |= permission.mask();
+        }
+        return permissions;
+    }
+
+    private static long allMask() {
+        long all = 0;
+        for (var permission : PERMISSIONS) {
+            all |= permission.mask();
+        }
+        return all;
+    }
+
+    /**
+     * Переводит маску из битов прав в индекс кэша: i-й бит индекса соответствует i-му праву перечисления.
+     */
+    private static long compact(long bits) {
+        long index = 0;
+        for (int i = 0; i < PERMISSIONS.length; i++) {
+            if ((bits & PERMISSIONS[i].mask()) != 0) {
+                index |= 1L << i;
+            }
+        }
+        return index;
+    }
+
+    private static List<List<GrantedAuthority>> buildCache() {
+        var cache = new ArrayList<List<GrantedAuthority>>(1 << PERMISSIONS.length);
+        for (int index = 0; index < 1 << PERMISSIONS.length; index++) {
+            var authorities = new ArrayList<GrantedAuthority>();
+            for (int i = 0; i < PERMISSIONS.length; i++) {
+                if ((index & 1 << i) != 0) {
+                    authorities.add(PERMISSIONS[i]);
+                }
+            }
+            cache.add(List.copyOf(authorities));
+        }
+        return List.copyOf(cache);
+    }
+}
@@ -3,19 +3,23 @@ package ru.job4j.auth.security;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import ru.job4j.auth.filter.JWTAuthenticationFilter;
 import ru.job4j.auth.filter.JWTAuthorizationFilter;
+import ru.job4j.auth.model.Permission;
 import ru.job4j.auth.service.UserDetailsServiceImpl;
 
+import static ru.job4j.auth.filter.JWTAuthenticationFilter.ASYNC_SIGN_UP_URL;
 import static ru.job4j.auth.filter.JWTAuthenticationFilter.SIGN_UP_URL;
 
 /**
@@ -47,17 +51,28 @@ public class WebSecurity extends WebSecurityConfigurerAdapter {
      * Конфигурирует Spring Security для обработки запросов.
      * cors() - включает поддержку CORS.
      * crsf().disable() - отключает проверку подделки межсайтовых запросов.
-     * .antMatchers - разрешает регистрацию пользователя для неаутентифицированных пользователей.
+     * .antMatchers - разрешает регистрацию пользователя для неаутентифицированных пользователей,
+     * остальные запросы к /person/** требуют соответствующего права {@link Permission}. Права берутся из JWT-токена,
+     * поэтому проверка не обращается к базе данных.
      * .anyRequest().authenticated() - другие запросы доступны только аутентифицированным пользователям.
+     * .authenticationEntryPoint - неаутентифицированный запрос получает 401, а не 403,
+     * чтобы клиент отличал необходимость повторного входа от отсутствия прав.
      * @param http {@link HttpSecurity} конфигурируемый объект.
      * @throws Exception в случае возникновения исключения настройки безопасности.
      */
     @Override
     protected void configure(HttpSecurity http) throws Exception {
         http.cors().and().csrf().disable().authorizeRequests()
-                .antMatchers(HttpMethod.POST, SIGN_UP_URL).permitAll()
+                .antMatchers(HttpMethod.POST, SIGN_UP_URL, ASYNC_SIGN_UP_URL).permitAll()
+                .antMatchers(HttpMethod.GET, "/person/**").hasAuthority(Permission.PERSON_READ.getAuthority())
+                .antMatchers(HttpMethod.POST, "/person/**").hasAuthority(Permission.PERSON_WRITE.getAuthority())
+                .antMatchers(HttpMethod.PUT, "/person/**").hasAuthority(Permission.PERSON_WRITE.getAuthority())
+                .antMatchers(HttpMethod.PATCH, "/person/**").hasAuthority(Permission.PERSON_WRITE.getAuthority())
+                .antMatchers(HttpMethod.DELETE, "/person/**").hasAuthority(Permission.PERSON_DELETE.getAuthority())
                 .anyRequest().authenticated()
                 .and()
+                .exceptionHandling().authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+                .and()
                 .addFilter(new JWTAuthenticationFilter(authenticationManager()))
                 .addFilter(new JWTAuthorizationFilter(authenticationManager()))
                 /* this disables session creation on Spring Security */
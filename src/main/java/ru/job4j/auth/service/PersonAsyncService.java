@@ -0,0 +1,116 @@
+package ru.job4j.auth.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import ru.job4j.auth.model.Person;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Асинхронный режим {@link PersonService}. Обращения к базе данных выполняются в пуле ioExecutor,
+ * хеширование паролей - в пуле cpuExecutor, поэтому поток Tomcat освобождается на время ожидания.
+ * Каждая операция ограничена таймаутом app.async.timeout-ms и завершается {@link java.util.concurrent.TimeoutException},
+ * шаги, не начавшиеся до таймаута, не выполняются.
+ * @author: Egor Bekhterev
+ * @date: 18.10.2026
+ * @project: job4j_auth
+ */
+@Service
+public class PersonAsyncService {
+
+    private final PersonService persons;
+
+    private final BCryptPasswordEncoder encoder;
+
+    private final ThreadPoolTaskExecutor ioExecutor;
+
+    private final ThreadPoolTaskExecutor cpuExecutor;
+
+    private final long timeoutMs;
+
+    public PersonAsyncService(PersonService persons, BCryptPasswordEncoder encoder,
+                              @Qualifier("ioExecutor") ThreadPoolTaskExecutor ioExecutor,
+                              @Qualifier("cpuExecutor") ThreadPoolTaskExecutor cpuExecutor,
+                              @Value("${app.async.timeout-ms}") long timeoutMs) {
+        this.persons = persons;
+        this.encoder = encoder;
+        this.ioExecutor = ioExecutor;
+        this.cpuExecutor = cpuExecutor;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public CompletableFuture<List<Person>> findAll() {
+        return io(persons::findAll);
+    }
+
+    public CompletableFuture<Optional<Person>> findById(int id) {
+        return io(() -> persons.findById(id));
+    }
+
+    public CompletableFuture<List<Person>> searchByLogin(String prefix, String afterLogin, int afterId, int limit) {
+        return io(() -> persons.searchByLogin(prefix, afterLogin, afterId, limit));
+    }
+
+    public CompletableFuture<Person> register(Person person) {
+        return io(() -> persons.register(person));
+    }
+
+    public CompletableFuture<Boolean> update(Person person) {
+        return io(() -> persons.update(person));
+    }
+
+    public CompletableFuture<Boolean> delete(int id) {
+        return io(() -> persons.delete(id));
+    }
+
+    /**
+     * Регистрация пользователя: пароль хешируется в пуле cpuExecutor, затем пользователь
+     * сохраняется с ролью по умолчанию в пуле ioExecutor. Если таймаут истек до начала шага,
+     * шаг не выполняется.
+     * @param person новый пользователь с паролем в открытом виде.
+     * @return сохраненный пользователь.
+     */
+    public CompletableFuture<Person> signUp(Person person) {
+        var result = new CompletableFuture<Person>().orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+        execute(result, cpuExecutor, () -> {
+            person.setPassword(encoder.encode(person.getPassword()));
+            execute(result, ioExecutor, () -> result.complete(persons.register(person)));
+        });
+        return result;
+    }
+
+    private <T> CompletableFuture<T> io(Supplier<T> action) {
+        var result = new CompletableFuture<T>().orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+        execute(result, ioExecutor, () -> result.complete(action.get()));
+        return result;
+    }
+
+    /**
+     * Запускает шаг операции в пуле потоков. Шаг пропускается, если результат уже завершен по таймауту,
+     * поэтому запрос, на который клиент получил ошибку, не начнет запись в базу данных.
+     * @param result результат операции.
+     * @param executor пул потоков.
+     * @param step шаг операции.
+     * @throws java.util.concurrent.RejectedExecutionException если очередь пула переполнена.
+     */
+    private static void execute(CompletableFuture<?> result, Executor executor, Runnable step) {
+        executor.execute(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                step.run();
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+}
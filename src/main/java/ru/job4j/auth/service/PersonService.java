@@ -2,6 +2,7 @@ package ru.job4j.auth.service;
 
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.job4j.auth.model.Person;
 import ru.job4j.auth.repository.PersonRepository;
 
@@ -17,8 +18,15 @@ import java.util.Optional;
 @AllArgsConstructor
 public class PersonService {
 
+    /**
+     * Максимальный размер страницы поиска по логину.
+     */
+    public static final int MAX_SEARCH_LIMIT = 100;
+
     private PersonRepository personRepository;
 
+    private RoleService roleService;
+
     public List<Person> findAll() {
         return personRepository.findAll();
     }
@@ -31,6 +39,19 @@ public class PersonService {
         return personRepository.save(person);
     }
 
+    /**
+     * Регистрирует пользователя с ролью {@link RoleService#DEFAULT_ROLE}. Сохранение и назначение роли
+     * выполняются в одной транзакции, поэтому пользователь без роли не может быть сохранен.
+     * @param person новый пользователь.
+     * @return сохраненный пользователь.
+     */
+    @Transactional
+    public Person register(Person person) {
+        var saved = personRepository.save(person);
+        roleService.assign(saved.getId(), RoleService.DEFAULT_ROLE);
+        return saved;
+    }
+
     public boolean update(Person person) {
         if (personRepository.existsById(person.getId())) {
             personRepository.save(person);
@@ -50,4 +71,50 @@ public class PersonService {
     public Optional<Person> findByLogin(String login) {
         return personRepository.findByLogin(login);
     }
+
+    /**
+     * Поиск пользователей по префиксу логина с keyset-пагинацией. Результат упорядочен по (login, id),
+     * следующая страница запрашивается по login и id последней записи предыдущей страницы.
+     * Префикс переводится в диапазон [prefix, upperBound(prefix)), поэтому символы '%' и '_'
+     * ищутся буквально, а запрос читает из индекса только одну страницу.
+     * @param prefix префикс логина, не может быть пустым.
+     * @param afterLogin login последней записи предыдущей страницы, null - для первой страницы.
+     * @param afterId id последней записи предыдущей страницы.
+     * @param limit размер страницы, ограничивается {@link #MAX_SEARCH_LIMIT}.
+     * @return страница найденных пользователей.
+     * @throws IllegalArgumentException если префикс пустой.
+     */
+    public List<Person> searchByLogin(String prefix, String afterLogin, int afterId, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Login prefix must not be blank.");
+        }
+        var to = upperBound(prefix);
+        var size = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        if (afterLogin == null) {
+            return personRepository.searchByLoginRange(prefix, to, size);
+        }
+        return personRepository.searchByLoginRangeAfter(prefix, to, afterLogin, afterId, size);
+    }
+
+    /**
+     * Наименьшая строка, большая всех строк с данным префиксом: последняя кодовая точка префикса
+     * увеличивается на 1 в порядке кодовых точек (порядок collation "C" для UTF-8).
+     * Суррогатный диапазон D800-DFFF пропускается, завершающие U+10FFFF отбрасываются
+     * с переносом на предыдущую кодовую точку.
+     */
+    static String upperBound(String prefix) {
+        var end = prefix.length();
+        while (end > 0 && prefix.codePointBefore(end) == Character.MAX_CODE_POINT) {
+            end -= Character.charCount(Character.MAX_CODE_POINT);
+        }
+        if (end == 0) {
+            throw new IllegalArgumentException("Login prefix is out of range.");
+        }
+        var last = prefix.codePointBefore(end);
+        var next = last + 1;
+        if (next >= Character.MIN_SURROGATE && next <= Character.MAX_SURROGATE) {
+            next = Character.MAX_SURROGATE + 1;
+        }
+        return prefix.substring(0, end - Character.charCount(last)) + Character.toString(next);
+    }
 }
@@ -0,0 +1,53 @@
+package ru.job4j.auth.service;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.job4j.auth.model.Permission;
+import ru.job4j.auth.repository.RoleRepository;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * @author: Egor Bekhterev
+ * @date: 18.10.2026
+ * @project: job4j_auth
+ */
+@Service
+@AllArgsConstructor
+public class RoleService {
+
+    /**
+     * Роль, назначаемая пользователю при регистрации.
+     */
+    public static final String DEFAULT_ROLE = "ROLE_USER";
+
+    private RoleRepository roleRepository;
+
+    /**
+     * Собирает права всех ролей пользователя одним запросом к role_permission.
+     * @param login login пользователя.
+     * @return объединение прав ролей пользователя.
+     */
+    public Set<Permission> findPermissionsByLogin(String login) {
+        var permissions = EnumSet.noneOf(Permission.class);
+        for (String permission : roleRepository.findPermissionsByLogin(login)) {
+            permissions.add(Permission.valueOf(permission));
+        }
+        return permissions;
+    }
+
+    /**
+     * Назначает пользователю роль.
+     * @param personId идентификатор пользователя.
+     * @param roleName имя роли.
+     * @throws IllegalStateException если роль не найдена.
+     */
+    @Transactional
+    public void assign(int personId, String roleName) {
+        if (roleRepository.assign(personId, roleName) == 0) {
+            throw new IllegalStateException("Role is not found: " + roleName);
+        }
+    }
+}
@@ -6,8 +6,9 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-
-import static java.util.Collections.emptyList;
+import ru.job4j.auth.datasource.Pool;
+import ru.job4j.auth.datasource.PoolContext;
+import ru.job4j.auth.security.Authorities;
 
 /**
  * @author: Egor Bekhterev
@@ -20,18 +21,26 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     private PersonService persons;
 
+    private RoleService roles;
+
     /**
-     * Поиск пользователя по логину в базе данных.
+     * Поиск пользователя по логину в базе данных. Права пользователя собираются из его ролей.
+     * Запросы выполняются в отдельном пуле соединений {@link Pool#AUTH}.
      * @param username login пользователя.
      * @return объект {@link User}, который является реализацией интерфейса {@link UserDetails}.
      * @throws UsernameNotFoundException если пользователь не найден.
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return PoolContext.call(Pool.AUTH, () -> load(username));
+    }
+
+    private UserDetails load(String username) {
         var user = persons.findByLogin(username);
         if (user.isEmpty()) {
             throw new UsernameNotFoundException(username);
         }
-        return new User(user.get().getLogin(), user.get().getPassword(), emptyList());
+        var bits = Authorities.toBits(roles.findPermissionsByLogin(username));
+        return new User(user.get().getLogin(), user.get().getPassword(), Authorities.fromBits(bits));
     }
 }
@@ -0,0 +1,16 @@
+create table role (
+    id serial primary key not null,
+    name varchar(100) unique not null
+);
+
+create table role_permission (
+    role_id int not null references role(id) on delete cascade,
+    permission varchar(100) not null,
+    primary key (role_id, permission)
+);
+
+create table person_role (
+    person_id int not null references person(id) on delete cascade,
+    role_id int not null references role(id),
+    primary key (person_id, role_id)
+);
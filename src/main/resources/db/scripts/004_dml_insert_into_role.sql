@@ -0,0 +1,11 @@
+insert into role (name) values ('ROLE_USER');
+insert into role (name) values ('ROLE_ADMIN');
+
+insert into role_permission (role_id, permission) select id, 'PERSON_READ' from role where name = 'ROLE_USER';
+insert into role_permission (role_id, permission) select id, 'PERSON_READ' from role where name = 'ROLE_ADMIN';
+insert into role_permission (role_id, permission) select id, 'PERSON_WRITE' from role where name = 'ROLE_ADMIN';
+insert into role_permission (role_id, permission) select id, 'PERSON_DELETE' from role where name = 'ROLE_ADMIN';
+
+insert into person_role (person_id, role_id) select p.id, r.id from person p, role r where r.name = 'ROLE_USER';
+insert into person_role (person_id, role_id)
+    select p.id, r.id from person p, role r where p.login = 'parsentev' and r.name = 'ROLE_ADMIN';
@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset bekhterev:005_ddl_create_person_login_index dbms:postgresql
+alter table person alter column login type varchar(2000) collate "C";
+create index person_login_prefix_idx on person (login, id);
+
+--changeset bekhterev:005_ddl_create_person_login_index_h2 dbms:h2
+create index person_login_prefix_idx on person (login, id);
@@ -0,0 +1,46 @@
+package ru.job4j.auth;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import ru.job4j.auth.model.Permission;
+import ru.job4j.auth.model.Person;
+import ru.job4j.auth.security.Authorities;
+
+import java.util.List;
+
+import static ru.job4j.auth.filter.JWTAuthenticationFilter.SECRET;
+import static ru.job4j.auth.filter.JWTAuthenticationFilter.TOKEN_PREFIX;
+
+/**
+ * Общие тестовые данные: JWT-токены и пользователи.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    /**
+     * Значение заголовка Authorization для пользователя parsentev с указанными правами.
+     * Без аргументов - токен с пустым набором прав.
+     */
+    public static String bearer(Permission... permissions) {
+        return TOKEN_PREFIX + JWT.create()
+                .withSubject("parsentev")
+                .withClaim(Authorities.CLAIM, Authorities.toBits(List.of(permissions)))
+                .sign(Algorithm.HMAC512(SECRET.getBytes()));
+    }
+
+    /**
+     * Значение заголовка Authorization со всеми правами.
+     */
+    public static String admin() {
+        return bearer(Permission.values());
+    }
+
+    public static Person person(String login) {
+        var person = new Person();
+        person.setLogin(login);
+        person.setPassword("password");
+        return person;
+    }
+}
@@ -0,0 +1,135 @@
+package ru.job4j.auth.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static ru.job4j.auth.TestFixtures.admin;
+import static ru.job4j.auth.filter.JWTAuthenticationFilter.HEADER_STRING;
+
+/**
+ * Синхронный и асинхронный режимы должны отвечать одинаково.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties")
+class PersonAsyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("cpuExecutor")
+    private ThreadPoolTaskExecutor cpuExecutor;
+
+    private MockHttpServletResponse perform(RequestBuilder request) throws Exception {
+        var result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        return result.getResponse();
+    }
+
+    private void assertSameResponse(String path, RequestBuilderFactory factory) throws Exception {
+        var sync = perform(factory.create("/person" + path));
+        var async = perform(factory.create("/person/async" + path));
+
+        assertThat(async.getStatus()).isEqualTo(sync.getStatus());
+        assertThat(async.getContentType()).isEqualTo(sync.getContentType());
+        assertThat(async.getHeader("Job4jCustomHeader")).isEqualTo(sync.getHeader("Job4jCustomHeader"));
+        assertThat(async.getContentAsString()).isEqualTo(sync.getContentAsString());
+    }
+
+    @Test
+    void whenFindByIdThenSameResponse() throws Exception {
+        assertSameResponse("/1", path -> get(path).header(HEADER_STRING, admin()));
+    }
+
+    @Test
+    void whenShortPasswordThenSameBadRequest() throws Exception {
+        assertSameResponse("/sign-up", path -> post(path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"login\":\"short\",\"password\":\"123\"}"));
+    }
+
+    @Test
+    void whenBlankSearchThenSameBadRequest() throws Exception {
+        assertSameResponse("/search", path -> get(path).param("login", " ").header(HEADER_STRING, admin()));
+    }
+
+    @Test
+    void whenPatchMissingPersonThenSameNotFound() throws Exception {
+        assertSameResponse("/patch", path -> patch(path)
+                .header(HEADER_STRING, admin())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"id\":100000,\"login\":\"missing\"}"));
+        assertSameResponse("/patchDTO/100000", path -> patch(path)
+                .header(HEADER_STRING, admin())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"password\":\"password\"}"));
+    }
+
+    @Test
+    void whenPatchShortPasswordThenSameBadRequest() throws Exception {
+        assertSameResponse("/patchDTO/1", path -> patch(path)
+                .header(HEADER_STRING, admin())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"password\":\"123\"}"));
+    }
+
+    @Test
+    void whenCpuQueueIsFullThenServiceUnavailable() throws Exception {
+        var threads = cpuExecutor.getMaxPoolSize();
+        var capacity = cpuExecutor.getQueueCapacity();
+        assertThat(capacity).isEqualTo(threads * 5000 / 100);
+        var started = new CountDownLatch(threads);
+        var release = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < threads + capacity; i++) {
+                cpuExecutor.execute(() -> {
+                    started.countDown();
+                    awaitQuietly(release);
+                });
+            }
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            var response = perform(post("/person/async/sign-up")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"login\":\"overloaded\",\"password\":\"password\"}"));
+
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+            assertThat(response.getContentAsString()).contains("please retry later");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface RequestBuilderFactory {
+        RequestBuilder create(String path);
+    }
+}
@@ -0,0 +1,37 @@
+package ru.job4j.auth.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.job4j.auth.TestFixtures.admin;
+import static ru.job4j.auth.filter.JWTAuthenticationFilter.HEADER_STRING;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties")
+class PersonControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void whenSearchByBlankLoginThenBadRequest() throws Exception {
+        mockMvc.perform(get("/person/search").param("login", "").header(HEADER_STRING, admin()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Login prefix must not be blank."));
+    }
+
+    @Test
+    void whenSearchByLoginThenFound() throws Exception {
+        mockMvc.perform(get("/person/search").param("login", "parsen").header(HEADER_STRING, admin()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].login").value("parsentev"));
+    }
+}
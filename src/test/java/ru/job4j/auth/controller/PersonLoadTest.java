@@ -0,0 +1,170 @@
+package ru.job4j.auth.controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static ru.job4j.auth.TestFixtures.admin;
+import static ru.job4j.auth.filter.JWTAuthenticationFilter.HEADER_STRING;
+
+/**
+ * Нагрузочное сравнение синхронного (/person/...) и асинхронного (/person/async/...) режимов.
+ * Запускается только явно:
+ * mvn test -Dtest=PersonLoadTest -Dloadtest=true [-Dloadtest.concurrency=200] [-Dloadtest.seconds=15]
+ * [-Dloadtest.rounds=3] [-Dloadtest.tomcat-threads=20] [-Dloadtest.url=jdbc:postgresql://...]
+ * Для каждого сценария и режима держит concurrency одновременных запросов в течение loadtest.seconds
+ * после прогрева и выводит в лог (logs/app.log) число успешных запросов в секунду, число ошибок и перцентили задержки.
+ * Порядок режимов чередуется между раундами, чтобы прогрев JVM не давал преимущества одному из них.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+        "spring.datasource.url=${loadtest.url:jdbc:h2:mem:loadtest;MODE=PostgreSQL;"
+                + "CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1}",
+        "spring.datasource.username=${loadtest.username:}",
+        "spring.datasource.password=${loadtest.password:}",
+        "spring.datasource.driver-class-name=${loadtest.driver:org.h2.Driver}",
+        "spring.jpa.properties.hibernate.dialect=${loadtest.dialect:org.hibernate.dialect.H2Dialect}",
+        "spring.jpa.show-sql=false",
+        "server.tomcat.threads.max=${loadtest.tomcat-threads:20}",
+        "logging.level.root=WARN",
+        "logging.level.PersonLoadTest=INFO"
+})
+class PersonLoadTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PersonLoadTest.class.getSimpleName());
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 200);
+
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("loadtest.seconds", 15));
+
+    private static final int ROUNDS = Integer.getInteger("loadtest.rounds", 3);
+
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+
+    private static final AtomicInteger LOGINS = new AtomicInteger();
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final String token = admin();
+
+    @Test
+    void compareSyncAndAsync() throws Exception {
+        LOGGER.info("concurrency={}, duration={}s, tomcat threads={}, cpus={}", CONCURRENCY,
+                DURATION.toSeconds(), System.getProperty("loadtest.tomcat-threads", "20"),
+                Runtime.getRuntime().availableProcessors());
+        LOGGER.info(String.format("%-5s %-10s %-6s %8s %7s %8s %8s %8s", "round", "scenario", "mode", "requests",
+                "errors", "ok req/s", "p50 ms", "p99 ms"));
+        for (int round = 1; round <= ROUNDS; round++) {
+            var modes = round % 2 == 1 ? new String[] {"", "/async"} : new String[] {"/async", ""};
+            for (var mode : modes) {
+                var name = mode.isEmpty() ? "sync" : "async";
+                report(round, "findById", name, measure(() -> get("/person" + mode + "/1")));
+                report(round, "search", name, measure(() -> get("/person" + mode + "/search?login=i&limit=20")));
+                report(round, "sign-up", name, measure(() -> signUp("/person" + mode + "/sign-up")));
+            }
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(HEADER_STRING, token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest signUp(String path) {
+        var body = "{\"login\":\"load" + LOGINS.incrementAndGet() + "\",\"password\":\"password\"}";
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private Result measure(Supplier<HttpRequest> requests) throws InterruptedException {
+        run(requests, WARM_UP);
+        return run(requests, DURATION);
+    }
+
+    /**
+     * Держит CONCURRENCY запросов в полете: каждый завершенный запрос сразу запускает следующий.
+     */
+    private Result run(Supplier<HttpRequest> requests, Duration duration) throws InterruptedException {
+        var result = new Result();
+        var deadline = System.nanoTime() + duration.toNanos();
+        var done = new CountDownLatch(CONCURRENCY);
+        var start = System.nanoTime();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            next(requests, deadline, result, done);
+        }
+        done.await();
+        result.elapsedNanos = System.nanoTime() - start;
+        assertThat(result.latencies).isNotEmpty();
+        return result;
+    }
+
+    private void next(Supplier<HttpRequest> requests, long deadline, Result result, CountDownLatch done) {
+        if (System.nanoTime() >= deadline) {
+            done.countDown();
+            return;
+        }
+        var start = System.nanoTime();
+        client.sendAsync(requests.get(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    result.record(System.nanoTime() - start, error == null && response.statusCode() < 400);
+                    next(requests, deadline, result, done);
+                });
+    }
+
+    private static void report(int round, String scenario, String mode, Result result) {
+        var latencies = new ArrayList<>(result.latencies);
+        Collections.sort(latencies);
+        var errors = result.errors.get();
+        LOGGER.info(String.format("%-5d %-10s %-6s %8d %7d %8.1f %8.1f %8.1f", round, scenario, mode,
+                latencies.size(), errors, (latencies.size() - errors) * 1e9 / result.elapsedNanos,
+                percentile(latencies, 0.50), percentile(latencies, 0.99)));
+    }
+
+    private static double percentile(List<Long> sorted, double p) {
+        return sorted.get((int) Math.min(sorted.size() - 1, Math.floor(sorted.size() * p))) / 1e6;
+    }
+
+    private static class Result {
+
+        private final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+
+        private final AtomicLong errors = new AtomicLong();
+
+        private long elapsedNanos;
+
+        void record(long nanos, boolean ok) {
+            latencies.add(nanos);
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package ru.job4j.auth.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.junit.jupiter.api.Test;
+import ru.job4j.auth.model.Permission;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static ru.job4j.auth.filter.JWTAuthenticationFilter.SECRET;
+
+class AuthoritiesTest {
+
+    @Test
+    void whenPermissionsToBitsAndBackThenSamePermissions() {
+        var permissions = List.of(Permission.PERSON_READ, Permission.PERSON_DELETE);
+
+        var bits = Authorities.toBits(permissions);
+
+        assertThat(bits).isEqualTo(Permission.PERSON_READ.mask() | Permission.PERSON_DELETE.mask());
+        assertThat(Authorities.fromBits(bits)).containsExactlyInAnyOrderElementsOf(permissions);
+    }
+
+    @Test
+    void whenPermsClaimSignedAndVerifiedThenSamePermissions() {
+        var permissions = List.of(Permission.PERSON_READ, Permission.PERSON_WRITE);
+        var token = JWT.create()
+                .withSubject("user")
+                .withClaim(Authorities.CLAIM, Authorities.toBits(permissions))
+                .sign(Algorithm.HMAC512(SECRET.getBytes()));
+
+        var bits = JWT.require(Algorithm.HMAC512(SECRET.getBytes())).build()
+                .verify(token).getClaim(Authorities.CLAIM).asLong();
+
+        assertThat(Authorities.fromBits(bits)).containsExactlyInAnyOrderElementsOf(permissions);
+    }
+
+    @Test
+    void whenFromBitsThenCachedImmutableList() {
+        var bits = Permission.PERSON_READ.mask();
+
+        assertThat(Authorities.fromBits(bits)).isSameAs(Authorities.fromBits(bits));
+        assertThatThrownBy(() -> Authorities.fromBits(bits).add(Permission.PERSON_DELETE))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void whenUnknownBitsThenIgnored() {
+        assertThat(Authorities.fromBits(1L << 63 | Permission.PERSON_WRITE.mask()))
+                .containsExactly(Permission.PERSON_WRITE);
+    }
+
+    @Test
+    void whenTooManyPermissionsThenFails() {
+        var permissions = new Permission[Authorities.MAX_PERMISSIONS + 1];
+        Arrays.fill(permissions, Permission.PERSON_READ);
+
+        assertThatThrownBy(() -> Authorities.checked(permissions))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Too many permissions");
+    }
+
+    @Test
+    void whenDuplicateBitThenFails() {
+        assertThatThrownBy(() -> Authorities.checked(
+                new Permission[] {Permission.PERSON_READ, Permission.PERSON_READ}))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Duplicate permission bit");
+    }
+}
@@ -0,0 +1,62 @@
+package ru.job4j.auth.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.job4j.auth.model.Permission;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.job4j.auth.TestFixtures.bearer;
+import static ru.job4j.auth.filter.JWTAuthenticationFilter.HEADER_STRING;
+import static ru.job4j.auth.filter.JWTAuthenticationFilter.SECRET;
+import static ru.job4j.auth.filter.JWTAuthenticationFilter.TOKEN_PREFIX;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-test.properties")
+class WebSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void whenReadOnlyTokenThenDeleteForbidden() throws Exception {
+        mockMvc.perform(delete("/person/1").header(HEADER_STRING, bearer(Permission.PERSON_READ)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void whenReadOnlyTokenThenGetAllowed() throws Exception {
+        mockMvc.perform(get("/person/1").header(HEADER_STRING, bearer(Permission.PERSON_READ)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void whenTokenWithoutPermissionsThenGetForbidden() throws Exception {
+        mockMvc.perform(get("/person/1").header(HEADER_STRING, bearer()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void whenTokenWithoutPermsClaimThenUnauthorized() throws Exception {
+        var token = TOKEN_PREFIX + JWT.create()
+                .withSubject("ban")
+                .sign(Algorithm.HMAC512(SECRET.getBytes()));
+
+        mockMvc.perform(get("/person/1").header(HEADER_STRING, token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void whenNoTokenThenUnauthorized() throws Exception {
+        mockMvc.perform(get("/person/1"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,100 @@
+package ru.job4j.auth.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static ru.job4j.auth.TestFixtures.person;
+
+class PersonAsyncServiceTest {
+
+    private final PersonService persons = mock(PersonService.class);
+
+    private final ThreadPoolTaskExecutor ioExecutor = new ThreadPoolTaskExecutor();
+
+    private final ThreadPoolTaskExecutor cpuExecutor = new ThreadPoolTaskExecutor();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private PersonAsyncService service;
+
+    @BeforeEach
+    void setUp() {
+        for (var executor : new ThreadPoolTaskExecutor[] {ioExecutor, cpuExecutor}) {
+            executor.setCorePoolSize(1);
+            executor.setMaxPoolSize(1);
+            executor.initialize();
+        }
+        service = new PersonAsyncService(persons, new BCryptPasswordEncoder(4), ioExecutor, cpuExecutor, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        ioExecutor.shutdown();
+        cpuExecutor.shutdown();
+    }
+
+    private void blockIoExecutor() {
+        ioExecutor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    @Test
+    void whenRegisterTimedOutBeforeStartThenNotExecuted() throws Exception {
+        blockIoExecutor();
+
+        var result = service.register(person("async"));
+
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        release.countDown();
+        ioExecutor.submit(() -> { }).get(1, TimeUnit.SECONDS);
+        verify(persons, never()).register(any());
+    }
+
+    @Test
+    void whenSignUpTimedOutBeforeSaveThenNotExecuted() throws Exception {
+        blockIoExecutor();
+
+        var result = service.signUp(person("async"));
+
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        release.countDown();
+        ioExecutor.submit(() -> { }).get(1, TimeUnit.SECONDS);
+        verify(persons, never()).register(any());
+    }
+
+    @Test
+    void whenSignUpThenPasswordHashedAndRegistered() throws Exception {
+        var person = person("async");
+        when(persons.register(person)).thenReturn(person);
+
+        var saved = service.signUp(person).get(1, TimeUnit.SECONDS);
+
+        assertThat(saved.getPassword()).startsWith("$2a$");
+        verify(persons).register(person);
+    }
+}
@@ -0,0 +1,117 @@
+package ru.job4j.auth.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import ru.job4j.auth.model.Permission;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static ru.job4j.auth.TestFixtures.person;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class PersonServiceTest {
+
+    @Autowired
+    private PersonService persons;
+
+    @SpyBean
+    private RoleService roles;
+
+    @Test
+    void whenDeletePersonWithRoleThenDeleted() {
+        var saved = persons.save(person("delete_with_role"));
+        roles.assign(saved.getId(), RoleService.DEFAULT_ROLE);
+        assertThat(roles.findPermissionsByLogin("delete_with_role")).containsExactly(Permission.PERSON_READ);
+
+        assertThat(persons.delete(saved.getId())).isTrue();
+        assertThat(persons.findById(saved.getId())).isEmpty();
+        assertThat(roles.findPermissionsByLogin("delete_with_role")).isEmpty();
+    }
+
+    @Test
+    void whenRegisterThenDefaultRoleAssigned() {
+        var saved = persons.register(person("register_default_role"));
+
+        assertThat(roles.findPermissionsByLogin("register_default_role")).containsExactly(Permission.PERSON_READ);
+        persons.delete(saved.getId());
+    }
+
+    @Test
+    void whenAssignRoleFailsThenPersonIsNotSaved() {
+        doThrow(new IllegalStateException("Role is not found")).when(roles).assign(anyInt(), anyString());
+
+        assertThatThrownBy(() -> persons.register(person("register_rollback")))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(persons.findByLogin("register_rollback")).isEmpty();
+    }
+
+    @Test
+    @Transactional
+    void whenSearchByLoginThenKeysetPagesAcrossDuplicateLogins() {
+        var first = persons.save(person("srch_a"));
+        var second = persons.save(person("srch_a"));
+        var third = persons.save(person("srch_a"));
+        var last = persons.save(person("srch_b"));
+        persons.save(person("srchZ"));
+
+        var page1 = persons.searchByLogin("srch_", null, 0, 2);
+        var page2 = persons.searchByLogin("srch_", "srch_a", page1.get(1).getId(), 2);
+        var page3 = persons.searchByLogin("srch_", "srch_b", page2.get(1).getId(), 2);
+
+        assertThat(page1).containsExactly(first, second);
+        assertThat(page2).containsExactly(third, last);
+        assertThat(page3).isEmpty();
+    }
+
+    @Test
+    @Transactional
+    void whenSearchByLoginWithWildcardsThenMatchedLiterally() {
+        var percent = persons.save(person("esc%one"));
+        var underscore = persons.save(person("esc_two"));
+        persons.save(person("escXtwo"));
+        persons.save(person("escape"));
+
+        assertThat(persons.searchByLogin("esc%", null, 0, 10)).containsExactly(percent);
+        assertThat(persons.searchByLogin("esc_", null, 0, 10)).containsExactly(underscore);
+    }
+
+    @Test
+    void whenSearchByBlankLoginThenException() {
+        assertThatThrownBy(() -> persons.searchByLogin(" ", null, 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void whenUpperBoundThenLastCharIncremented() {
+        assertThat(PersonService.upperBound("ab")).isEqualTo("ac");
+        assertThat(PersonService.upperBound("a" + Character.MAX_VALUE)).isEqualTo("a\uD800\uDC00");
+    }
+
+    @Test
+    void whenUpperBoundOfSupplementaryPrefixThenCodePointIncremented() {
+        assertThat(PersonService.upperBound("a\uD83D\uDE00")).isEqualTo("a\uD83D\uDE01");
+        assertThat(PersonService.upperBound("a\uD7FF")).isEqualTo("a\uE000");
+        assertThat(PersonService.upperBound("a" + Character.toString(Character.MAX_CODE_POINT))).isEqualTo("b");
+        assertThatThrownBy(() -> PersonService.upperBound(Character.toString(Character.MAX_CODE_POINT)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Transactional
+    void whenSearchBySupplementaryPrefixThenFound() {
+        var smile = persons.save(person("emoji\uD83D\uDE00one"));
+        persons.save(person("emoji\uD83D\uDE01two"));
+
+        assertThat(persons.searchByLogin("emoji\uD83D\uDE00", null, 0, 10)).containsExactly(smile);
+    }
+}
@@ -0,0 +1,60 @@
+package ru.job4j.auth.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+        "app.datasource.crud.maximum-pool-size=2",
+        "app.datasource.crud.minimum-idle=1",
+        "app.datasource.crud.connection-timeout=250"
+})
+class UserDetailsServiceImplTest {
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private PersonService persons;
+
+    @Autowired
+    @Qualifier("crudDataSource")
+    private HikariDataSource crudDataSource;
+
+    @Autowired
+    @Qualifier("authDataSource")
+    private HikariDataSource authDataSource;
+
+    @Test
+    void whenCrudPoolExhaustedThenLoginUsesAuthPool() throws Exception {
+        var held = new ArrayList<Connection>();
+        try {
+            for (int i = 0; i < crudDataSource.getMaximumPoolSize(); i++) {
+                held.add(crudDataSource.getConnection());
+            }
+            assertThatThrownBy(() -> persons.findAll()).isInstanceOf(CannotCreateTransactionException.class);
+
+            var user = userDetailsService.loadUserByUsername("parsentev");
+
+            assertThat(user.getUsername()).isEqualTo("parsentev");
+            assertThat(crudDataSource.getHikariPoolMXBean().getActiveConnections())
+                    .isEqualTo(crudDataSource.getMaximumPoolSize());
+            assertThat(authDataSource.getHikariPoolMXBean().getTotalConnections()).isPositive();
+        } finally {
+            for (var connection : held) {
+                connection.close();
+            }
+        }
+    }
+}